@@ -277,6 +277,16 @@ String result = sb.toString();
 String formatted = String.format("Name: %s, Age: %d", "Alice", 25);
 System.out.printf("Value: %.2f%n", 3.14159); // Print formatted
 
+// String Interning (share one instance per distinct value)
+String interned = new String("Alice").intern(); // JVM-wide pool, cannot be cleared explicitly
+Map<String, String> namePool =
+    new java.util.concurrent.ConcurrentHashMap<>(); // Own pool, drop when load is done
+String csvLine = "Alice,25";                    // e.g. one line of a people file
+String[] fields = csvLine.split(",");
+String pooledName = namePool.computeIfAbsent(fields[0], k -> k);
+Person loaded = new Person(pooledName, Integer.parseInt(fields[1])); // Person: see section 10
+// JVM alternative (G1, Java 8u20+): -XX:+UseStringDeduplication dedupes backing arrays in GC
+
 // ----------------------------------------------------------------------------
 // 9. METHODS (FUNCTIONS)
 // ----------------------------------------------------------------------------
@@ -605,6 +615,7 @@ public class CustomException extends Exception {
 // ----------------------------------------------------------------------------
 
 import java.util.*;
+import java.util.concurrent.*;
 
 // List (ordered, allows duplicates)
 List<String> arrayList = new ArrayList<>();
@@ -644,6 +655,34 @@ for (Map.Entry<String, Integer> entry : hashMap.entrySet()) {
 Map<String, Integer> treeMap = new TreeMap<>(); // Sorted by keys
 Map<String, Integer> linkedHashMap = new LinkedHashMap<>(); // Insertion order
 
+// LRU Cache (access-ordered LinkedHashMap)
+public class LruCache<K, V> extends LinkedHashMap<K, V> {
+    private final int capacity;
+
+    public LruCache(int capacity) {
+        super(16, 0.75f, true);    // accessOrder = true
+        this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > capacity;  // Evict least recently used
+    }
+}
+
+Map<String, Integer> lru = Collections.synchronizedMap(new LruCache<>(1000)); // Thread-safe, single lock
+// High concurrency: prefer a library cache (e.g. Caffeine) over one global lock
+
+// Sorted Maps (NavigableMap)
+NavigableMap<String, Integer> scores = new TreeMap<>();
+String floor = scores.floorKey("M");          // Greatest key <= "M"
+SortedMap<String, Integer> range = scores.subMap("A", "M"); // View, no copy
+NavigableMap<String, Integer> concurrentSorted = new ConcurrentSkipListMap<>(); // Thread-safe
+
+// Read-mostly sorted keys: sorted primitive array + binary search (no node per entry)
+int[] sortedKeys = {3, 8, 15, 42};
+int idx = Arrays.binarySearch(sortedKeys, 15); // 2 (negative if absent)
+
 // Queue (FIFO)
 Queue<String> queue = new LinkedList<>();
 queue.offer("First");          // Add element
@@ -706,6 +745,36 @@ public class NumberBox<T extends Number> {
     }
 }
 
+// Primitive Specialization (no boxing, like IntStream vs Stream<Integer>)
+public class IntBox {
+    private int content;
+
+    public void set(int content) {
+        this.content = content;
+    }
+
+    public int get() {
+        return content;
+    }
+}
+
+// Generic vs Primitive Aggregation
+public static double total(List<? extends Number> list) {
+    double total = 0;
+    for (Number n : list) {
+        total += n.doubleValue();  // Each element is a boxed object
+    }
+    return total;
+}
+
+public static long total(int[] values) {
+    long total = 0;
+    for (int v : values) {
+        total += v;                // Contiguous primitives, no allocation
+    }
+    return total;
+}
+
 // Wildcards
 public void processList(List<?> list) {
     // ? means any type
@@ -773,6 +842,11 @@ boolean anyMatch = nums.stream().anyMatch(n -> n > 5);
 boolean allMatch = nums.stream().allMatch(n -> n > 0);
 boolean noneMatch = nums.stream().noneMatch(n -> n < 0);
 
+// Primitive Streams (no boxing of results)
+OptionalInt maxInt = nums.stream().mapToInt(Integer::intValue).max();
+int total = nums.stream().mapToInt(Integer::intValue).sum();
+IntSummaryStatistics stats = IntStream.rangeClosed(1, 10).summaryStatistics();
+
 // Sorted
 List<Integer> sorted = nums.stream()
     .sorted()
@@ -796,12 +870,33 @@ List<Integer> skipped = nums.stream()
 int parallelSum = nums.parallelStream()
     .reduce(0, Integer::sum);
 
+// Grouping and Aggregation
+List<Person> people = List.of(new Person("Alice", 25), new Person("Bob", 30), new Person("Carol", 25));
+Map<Integer, Long> countByAge = people.stream()
+    .collect(Collectors.groupingBy(Person::getAge, Collectors.counting()));
+Map<Boolean, List<Person>> adults = people.stream()
+    .collect(Collectors.partitioningBy(p -> p.getAge() >= 18));
+Map<String, Integer> ageByName = people.stream()
+    .collect(Collectors.toMap(Person::getName, Person::getAge, Integer::sum)); // Merge duplicates
+IntSummaryStatistics ageStats = people.stream()
+    .collect(Collectors.summarizingInt(Person::getAge)); // count/sum/min/max/avg in one pass
+
+// Parallel: concurrent map, or per-thread arrays merged at the end (no shared map)
+ConcurrentMap<Integer, Long> parallelCounts = people.parallelStream()
+    .collect(Collectors.groupingByConcurrent(Person::getAge, Collectors.counting()));
+long[] ageHistogram = people.parallelStream().collect(
+    () -> new long[151],                          // One primitive array per split, merged below
+    (hist, person) -> hist[Math.max(0, Math.min(person.getAge(), 150))]++, // Clamp to 0..150
+    (h1, h2) -> { for (int k = 0; k < h1.length; k++) h1[k] += h2[k]; });
+
 // ----------------------------------------------------------------------------
 // 22. FILE I/O
 // ----------------------------------------------------------------------------
 
 import java.io.*;
 import java.nio.file.*;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
 
 // Reading File (Old Way)
 BufferedReader reader = new BufferedReader(new FileReader("input.txt"));
@@ -834,6 +929,24 @@ Files.delete(path);
 Files.copy(path, Paths.get("copy.txt"));
 Files.move(path, Paths.get("moved.txt"));
 
+// Channel Copy (transferTo uses sendfile/copy_file_range where supported)
+try (FileChannel src = FileChannel.open(Paths.get("big.bin"), StandardOpenOption.READ);
+     FileChannel dst = FileChannel.open(Paths.get("big-copy.bin"),
+         StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+         StandardOpenOption.TRUNCATE_EXISTING)) { // Drop stale trailing bytes
+    long pos = 0, size = src.size();
+    while (pos < size) {
+        pos += src.transferTo(pos, size - pos, dst); // May transfer less than requested
+    }
+}
+
+// Buffered Writing (single 64 KB buffer for bulk output)
+try (BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+        Files.newOutputStream(Paths.get("output.txt")), StandardCharsets.UTF_8), 64 * 1024)) {
+    out.write("Hello, World!");
+    out.newLine();
+}
+
 // ----------------------------------------------------------------------------
 // 23. DATE AND TIME (Java 8+)
 // ----------------------------------------------------------------------------
@@ -876,6 +989,66 @@ int days = period.getDays();
 Duration duration = Duration.between(time, now);
 long seconds = duration.getSeconds();
 
+// Sliding Time Window (running sum/count, O(1) amortized per event)
+public class SlidingWindow {
+    private final long windowMillis;
+    private long[] times = new long[1024];  // Ring buffers of primitives (no boxing)
+    private long[] values = new long[1024];
+    private int head, size;
+    private long sum;
+
+    public SlidingWindow(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    public void add(Instant at, long value) {
+        evict(at);
+        if (size == times.length) {
+            grow();
+        }
+        int tail = (head + size) % times.length;
+        times[tail] = at.toEpochMilli();
+        values[tail] = value;
+        size++;
+        sum += value;
+    }
+
+    public long sum(Instant now) {          // Evict on read too, so quiet periods are seen
+        evict(now);
+        return sum;
+    }
+
+    public int count(Instant now) {
+        evict(now);
+        return size;
+    }
+
+    private void evict(Instant now) {
+        long cutoff = now.toEpochMilli() - windowMillis;
+        while (size > 0 && times[head] < cutoff) { // Subtract evicted events
+            sum -= values[head];
+            head = (head + 1) % times.length;
+            size--;
+        }
+    }
+
+    private void grow() {
+        long[] newTimes = new long[times.length * 2];
+        long[] newValues = new long[values.length * 2];
+        for (int k = 0; k < size; k++) {
+            newTimes[k] = times[(head + k) % times.length];
+            newValues[k] = values[(head + k) % values.length];
+        }
+        times = newTimes;
+        values = newValues;
+        head = 0;
+    }
+}
+
+SlidingWindow lastMinute = new SlidingWindow(Duration.ofMinutes(1));
+lastMinute.add(Instant.now(), 42);
+long lastMinuteSum = lastMinute.sum(Instant.now());
+
 // ----------------------------------------------------------------------------
 // 24. MULTITHREADING
 // ----------------------------------------------------------------------------
@@ -929,6 +1102,19 @@ public void method() {
     }
 }
 
+// Scheduling and Timeouts (instead of Thread.sleep, java.util.concurrent from section 18)
+ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+scheduler.setRemoveOnCancelPolicy(true);       // Drop cancelled tasks from the queue
+ScheduledFuture<?> timeout = scheduler.schedule(() -> System.out.println("Timed out"), 1, TimeUnit.SECONDS);
+timeout.cancel(false);                         // Cancel if the work finished first
+scheduler.shutdown();                          // Non-daemon thread keeps the JVM alive otherwise
+
+CompletableFuture<String> reply = CompletableFuture.supplyAsync(() -> "result")
+    .orTimeout(500, TimeUnit.MILLISECONDS);     // Java 9+
+Executor delayed = CompletableFuture.delayedExecutor(1, TimeUnit.SECONDS); // Run after a delay
+// Many short timeouts (e.g. per request): a timing wheel such as Netty's HashedWheelTimer
+// gives O(1) schedule/cancel
+
 // ----------------------------------------------------------------------------
 // 25. ANNOTATIONS
 // ----------------------------------------------------------------------------
@@ -999,6 +1185,9 @@ switch (day) {
 // 27. RECORDS (Java 14+)
 // ----------------------------------------------------------------------------
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 // Record (immutable data carrier)
 public record Point(int x, int y) {
     // Automatically generates:
@@ -1021,6 +1210,36 @@ public record Person(String name, int age) {
     }
 }
 
+// Binary Encoding (compact alternative to toString()/JSON)
+ByteBuffer pointBuf = ByteBuffer.allocate(8);   // Fixed layout: two ints
+pointBuf.putInt(p.x()).putInt(p.y()).flip();
+Point decoded = new Point(pointBuf.getInt(), pointBuf.getInt());
+
+Person alice = new Person("Alice", 30);
+byte[] nameBytes = alice.name().getBytes(StandardCharsets.UTF_8);
+ByteBuffer personBuf = ByteBuffer.allocate(4 + nameBytes.length + 4);
+personBuf.putInt(nameBytes.length).put(nameBytes).putInt(alice.age()).flip(); // Length-prefixed
+byte[] nameIn = new byte[personBuf.getInt()];
+personBuf.get(nameIn);
+Person decodedPerson = new Person(new String(nameIn, StandardCharsets.UTF_8), personBuf.getInt());
+
+// Records as Map Keys
+public record GridPoint(int x, int y) {
+    @Override
+    public int hashCode() {
+        long h = ((long) x << 32 | (y & 0xffffffffL)) * 0x9E3779B97F4A7C15L; // Mix both coordinates
+        return (int) (h ^ (h >>> 32));
+    }
+}
+
+// Pack two ints into one long key (no Point record per key)
+long key = ((long) p.x() << 32) | (p.y() & 0xffffffffL);
+int kx = (int) (key >>> 32);
+int ky = (int) key;
+Map<Long, String> byPoint = new HashMap<>();     // Still boxes a Long per entry; a primitive
+                                                 // long-keyed map avoids key objects entirely
+byPoint.put(key, "treasure");
+
 // ----------------------------------------------------------------------------
 // 28. OPTIONAL (Java 8+)
 // ----------------------------------------------------------------------------
@@ -1050,6 +1269,18 @@ Optional<String> upper = optional.flatMap(s -> Optional.of(s.toUpperCase()));
 // Filtering
 Optional<String> filtered = optional.filter(s -> s.length() > 3);
 
+// Primitive Optionals
+OptionalInt optInt = OptionalInt.of(42);
+int n = optInt.orElse(0);
+OptionalLong optLong = OptionalLong.empty();
+OptionalDouble avg = IntStream.of(1, 2, 3).average();
+
+// Hot Paths: plain null checks avoid an Optional per step
+Map<String, String> settings = Map.of("id", "42");
+String settingKey = "id";
+String setting = settings.get(settingKey);     // null if absent
+int len = (setting != null) ? setting.length() : 0;
+
 // ----------------------------------------------------------------------------
 // 29. COMMON UTILITY CLASSES
 // ----------------------------------------------------------------------------